@@ -0,0 +1,294 @@
+package com.example.springhelloworld.warmup;
+
+import com.example.springhelloworld.dto.BookRequest;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Warms up the application before it starts taking traffic.
+ *
+ * Spring Boot only publishes ReadinessState.ACCEPTING_TRAFFIC after all
+ * ApplicationRunners have returned, so running the warm-up synchronously here
+ * keeps /actuator/health/readiness at OUT_OF_SERVICE until it completes.
+ *
+ * The warm-up pre-fills the Hikari connection pool and then sends synthetic
+ * requests to the /api/books endpoints over loopback HTTP. Tomcat is already
+ * listening at this point, so the filter chain, DispatcherServlet, Jackson and
+ * the BookController, repository and Hibernate paths all get hot. The list
+ * endpoint is called once only, since it loads the whole books table.
+ *
+ * The writes use a single "__warmup-" book that is created at the start and
+ * deleted at the end, so each pod start uses one books auto-increment id.
+ * Every iteration updates that book and also sends a duplicate create and a
+ * delete of a missing book, which run the write handlers without new rows.
+ * While the book exists it is visible to other pods sharing the database.
+ *
+ * org.hibernate.SQL logging is switched off while warm-up runs. The result is
+ * logged and exposed under "warmup" in /actuator/info.
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner, InfoContributor {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    private static final String WARMUP_BOOK_PREFIX = "__warmup-";
+
+    private static final String SQL_LOGGER = "org.hibernate.SQL";
+
+    // Number of trailing iterations used for the reported warm latency
+    private static final int LATENCY_WINDOW = 50;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private RestClient.Builder restClientBuilder;
+
+    @Autowired
+    private LoggingSystem loggingSystem;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${warmup.iterations:3000}")
+    private int iterations;
+
+    @Value("${warmup.max-duration-ms:30000}")
+    private long maxDurationMs;
+
+    // Tomcat already serves /actuator/info while warm-up runs, so the report is
+    // built locally and only published as an immutable copy once it is final.
+    private volatile Map<String, Object> report = Map.of("status", "RUNNING");
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            report = Map.of("status", "DISABLED");
+            log.info("Warm-up disabled, application will accept traffic immediately");
+            return;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("iterations", 0);
+        long start = System.nanoTime();
+        long deadline = start + maxDurationMs * 1_000_000L;
+        Deque<Long> recentNanos = new ArrayDeque<>(LATENCY_WINDOW);
+        long firstIterationNanos = 0;
+        int completed = 0;
+
+        RestClient client = null;
+        String bookId = WARMUP_BOOK_PREFIX + UUID.randomUUID();
+        boolean bookCreated = false;
+
+        LoggerConfiguration sqlLogger = loggingSystem.getLoggerConfiguration(SQL_LOGGER);
+        LogLevel sqlLogLevel = sqlLogger != null ? sqlLogger.getConfiguredLevel() : null;
+        loggingSystem.setLogLevel(SQL_LOGGER, LogLevel.OFF);
+        try {
+            prefillConnectionPool(result, deadline);
+
+            client = buildClient();
+            expect(client.get().uri("/api/books"), HttpStatus.OK);
+            expect(client.post().uri("/api/books")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new BookRequest(bookId, "Warm-up Book", "Warm-up Author")), HttpStatus.CREATED);
+            bookCreated = true;
+
+            for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+                long iterationStart = System.nanoTime();
+                exerciseBookEndpoints(client, bookId, i);
+                long elapsed = System.nanoTime() - iterationStart;
+
+                if (i == 0) {
+                    firstIterationNanos = elapsed;
+                }
+                if (recentNanos.size() == LATENCY_WINDOW) {
+                    recentNanos.removeFirst();
+                }
+                recentNanos.addLast(elapsed);
+                completed++;
+                result.put("iterations", completed);
+            }
+
+            result.put("status", completed < iterations ? "TIMED_OUT" : "COMPLETED");
+        } catch (RuntimeException | SQLException e) {
+            // Warm-up itself never keeps the pod out of service. A real database
+            // outage still fails readiness through the db indicator, which is
+            // part of the readiness health group (see application.properties).
+            result.put("status", "FAILED");
+            result.put("error", String.valueOf(e.getMessage()));
+            log.warn("Warm-up failed after {} iterations, continuing startup: {}", completed, e.getMessage());
+        } finally {
+            if (bookCreated) {
+                deleteWarmupBook(client, bookId);
+            }
+            loggingSystem.setLogLevel(SQL_LOGGER, sqlLogLevel);
+        }
+
+        if (completed > 0) {
+            result.put("firstIterationMicros", toMicros(firstIterationNanos));
+            result.put("recentIterations", recentNanos.size());
+            result.put("recentAvgMicros", toMicros(average(recentNanos)));
+            result.put("recentMaxMicros", toMicros(max(recentNanos)));
+        }
+        result.put("durationMs", (System.nanoTime() - start) / 1_000_000L);
+        report = Map.copyOf(result);
+        log.info("Warm-up finished: {}", result);
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        builder.withDetail("warmup", report);
+    }
+
+    /**
+     * Open the pool's minimum idle connections up front instead of letting
+     * Hikari fill them lazily while real requests are waiting.
+     *
+     * The deadline is checked before each connection, but a single
+     * getConnection() can still block for Hikari's connectionTimeout.
+     */
+    private void prefillConnectionPool(Map<String, Object> result, long deadline) throws SQLException {
+        int target = 1;
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            target = Math.max(1, dataSource.unwrap(HikariDataSource.class).getMinimumIdle());
+        }
+        result.put("poolTarget", target);
+
+        List<Connection> connections = new ArrayList<>(target);
+        int valid = 0;
+        try {
+            for (int i = 0; i < target && System.nanoTime() < deadline; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                if (connection.isValid(1)) {
+                    valid++;
+                }
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+            result.put("poolConnections", valid);
+        }
+        if (valid < target) {
+            log.warn("Warm-up opened {} of {} pool connections", valid, target);
+        }
+    }
+
+    private RestClient buildClient() {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null) {
+            throw new IllegalStateException("Local server port is not available");
+        }
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(REQUEST_TIMEOUT);
+        requestFactory.setReadTimeout(REQUEST_TIMEOUT);
+
+        // The Origin header makes the requests go through CORS processing as well
+        return restClientBuilder
+                .baseUrl("http://localhost:" + port)
+                .requestFactory(requestFactory)
+                .defaultHeader(HttpHeaders.ORIGIN, "http://localhost")
+                .build();
+    }
+
+    /**
+     * One pass over the BookController request paths. Only the update changes
+     * data; the create and delete calls hit the conflict and not-found paths.
+     */
+    private void exerciseBookEndpoints(RestClient client, String bookId, int iteration) {
+        String suffix = iteration % 2 == 0 ? "" : " 2";
+
+        expect(client.get().uri("/api/books/{bookId}", bookId), HttpStatus.OK);
+        expect(client.get().uri("/api/books/{bookId}", bookId + "-missing"), HttpStatus.NOT_FOUND);
+        expect(client.put().uri("/api/books/{bookId}", bookId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new BookRequest(bookId, "Warm-up Book" + suffix, "Warm-up Author" + suffix)), HttpStatus.OK);
+        expect(client.post().uri("/api/books")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(new BookRequest(bookId, "Warm-up Book", "Warm-up Author")), HttpStatus.CONFLICT);
+        expect(client.delete().uri("/api/books/{bookId}", bookId + "-missing"), HttpStatus.NOT_FOUND);
+    }
+
+    private void deleteWarmupBook(RestClient client, String bookId) {
+        try {
+            expect(client.delete().uri("/api/books/{bookId}", bookId), HttpStatus.OK);
+        } catch (RuntimeException e) {
+            log.warn("Could not delete warm-up book '{}': {}", bookId, e.getMessage());
+        }
+    }
+
+    /**
+     * Send the request, read the whole response so the connection can be
+     * reused, and fail if the status is not the expected one.
+     */
+    private static void expect(RestClient.RequestHeadersSpec<?> request, HttpStatus expected) {
+        HttpStatusCode status = request.exchange((clientRequest, response) -> {
+            response.getBody().readAllBytes();
+            return response.getStatusCode();
+        });
+        if (status.value() != expected.value()) {
+            throw new IllegalStateException("Warm-up request expected " + expected.value()
+                    + " but got " + status.value());
+        }
+    }
+
+    private static long average(Deque<Long> samples) {
+        if (samples.isEmpty()) {
+            return 0;
+        }
+        long total = 0;
+        for (long sample : samples) {
+            total += sample;
+        }
+        return total / samples.size();
+    }
+
+    private static long max(Deque<Long> samples) {
+        long max = 0;
+        for (long sample : samples) {
+            max = Math.max(max, sample);
+        }
+        return max;
+    }
+
+    private static long toMicros(long nanos) {
+        return nanos / 1_000L;
+    }
+}